@@ -0,0 +1,99 @@
+package hello.springmvc.loadtest;
+
+import com.sun.management.ThreadMXBean;
+import com.sun.tools.attach.AttachNotSupportedException;
+import com.sun.tools.attach.VirtualMachine;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.HashMap;
+import java.util.Map;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+
+/**
+ * {@link ServerProcess} 의 스레드가 할당한 heap 바이트 수를 측정한다.
+ * <p>Attach API 로 서버 JVM 의 local JMX agent 를 띄우고 {@link ThreadMXBean} 으로 스레드별 할당량을 읽는다.
+ * 서버 JVM 에는 부하 생성기 스레드가 없으므로, 측정 자체에 쓰이는 JMX/RMI 스레드만 제외한다.
+ * 측정 도중 종료된 스레드의 할당량은 잡히지 않지만, Tomcat/Netty 의 worker 는 재사용되므로 영향이 작다.
+ */
+public class AllocationMeter implements AutoCloseable {
+
+    private static final String[] MEASUREMENT_THREAD_PREFIXES = {"RMI ", "JMX ", "Attach Listener"};
+
+    private final JMXConnector connector;
+    private final ThreadMXBean threadMXBean;
+
+    private Map<Long, Long> started = new HashMap<>();
+
+    private AllocationMeter(JMXConnector connector, ThreadMXBean threadMXBean) {
+        this.connector = connector;
+        this.threadMXBean = threadMXBean;
+    }
+
+    public static AllocationMeter attach(long pid) throws IOException {
+        String address;
+        try {
+            VirtualMachine vm = VirtualMachine.attach(String.valueOf(pid));
+            try {
+                address = vm.startLocalManagementAgent();
+            } finally {
+                vm.detach();
+            }
+        } catch (AttachNotSupportedException e) {
+            throw new IOException("cannot attach to server pid " + pid, e);
+        }
+
+        JMXConnector connector = JMXConnectorFactory.connect(new JMXServiceURL(address));
+        ThreadMXBean threadMXBean = ManagementFactory.newPlatformMXBeanProxy(
+                connector.getMBeanServerConnection(), ManagementFactory.THREAD_MXBEAN_NAME, ThreadMXBean.class);
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return new AllocationMeter(connector, threadMXBean);
+    }
+
+    public void start() {
+        started = snapshot();
+    }
+
+    /**
+     * @return {@link #start()} 이후 서버 스레드가 할당한 바이트 수
+     */
+    public long allocatedBytes() {
+        long allocated = 0;
+        for (Map.Entry<Long, Long> entry : snapshot().entrySet()) {
+            allocated += entry.getValue() - started.getOrDefault(entry.getKey(), 0L);
+        }
+        return allocated;
+    }
+
+    @Override
+    public void close() throws IOException {
+        connector.close();
+    }
+
+    private Map<Long, Long> snapshot() {
+        long[] ids = threadMXBean.getAllThreadIds();
+        ThreadInfo[] infos = threadMXBean.getThreadInfo(ids);
+        long[] bytes = threadMXBean.getThreadAllocatedBytes(ids);
+
+        Map<Long, Long> allocated = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (infos[i] == null || bytes[i] < 0 || isMeasurementThread(infos[i].getThreadName())) {
+                continue;
+            }
+            allocated.put(ids[i], bytes[i]);
+        }
+        return allocated;
+    }
+
+    private boolean isMeasurementThread(String name) {
+        for (String prefix : MEASUREMENT_THREAD_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,60 @@
+package hello.springmvc.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 한 번의 부하 구간 결과
+ * <p>{@link #getLatency()} 는 나노초 단위이며, 실제 전송 시각이 아니라 예정된 전송 시각부터 측정한 값이다.
+ * 할당량은 전송 구간({@link #getSendWindow()})이 끝난 시점에 측정하므로, 남은 응답을 기다리는 시간과 무관하다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoadResult {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+
+    private final Histogram latency;
+    private final long requests;
+    private final long successes;
+    private final long errors;
+    private final Map<String, Long> errorsByRequest;
+    private final long allocatedBytes;
+    private final Duration sendWindow;
+    private final Duration elapsed;
+
+    public double p99Millis() {
+        return latency.getValueAtPercentile(99.0) / NANOS_PER_MILLI;
+    }
+
+    public double maxMillis() {
+        return latency.getMaxValue() / NANOS_PER_MILLI;
+    }
+
+    /**
+     * @return 기대한 상태코드로 응답한 요청 수 / 첫 요청부터 마지막 응답까지의 시간
+     */
+    public double throughput() {
+        return successes / seconds(elapsed);
+    }
+
+    public double allocationRateMbPerSec() {
+        return allocatedBytes / BYTES_PER_MB / seconds(sendWindow);
+    }
+
+    /**
+     * @return 전송 구간 동안 보낸 요청 하나당 할당 바이트 수, 도착률이나 응답 대기 시간에 영향을 받지 않는다.
+     */
+    public long allocatedBytesPerRequest() {
+        return requests == 0 ? 0 : allocatedBytes / requests;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+
+}
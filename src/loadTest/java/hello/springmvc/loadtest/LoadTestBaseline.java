@@ -0,0 +1,91 @@
+package hello.springmvc.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장된 성능 기준값
+ * <p>p99 지연시간과 요청당 할당 바이트 수를 비교한다. p99 는 도착률에 따라 달라지므로 같은 도착률에서 측정한 값끼리만 비교해야 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class LoadTestBaseline {
+
+    /**
+     * p99 가 1ms 미만이면 비율만으로는 지터에 너무 민감하므로 이만큼의 여유를 항상 허용한다.
+     */
+    private static final double P99_SLACK_MILLIS = 1.0;
+
+    private static final String RATE = "rate";
+    private static final String P99_MILLIS = "p99.millis";
+    private static final String ALLOCATED_BYTES_PER_REQUEST = "allocation.bytes-per-request";
+    private static final String ALLOCATION_RATE = "allocation.mb-per-sec";
+    private static final String THROUGHPUT = "throughput";
+
+    private final int rate;
+    private final double p99Millis;
+    private final long allocatedBytesPerRequest;
+
+    public static Optional<LoadTestBaseline> load(Path path) throws IOException {
+        if (Files.notExists(path)) {
+            return Optional.empty();
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return Optional.of(new LoadTestBaseline(
+                Integer.parseInt(properties.getProperty(RATE)),
+                Double.parseDouble(properties.getProperty(P99_MILLIS)),
+                Long.parseLong(properties.getProperty(ALLOCATED_BYTES_PER_REQUEST))));
+    }
+
+    public static void store(Path path, int rate, LoadResult result) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(RATE, String.valueOf(rate));
+        properties.setProperty(P99_MILLIS, String.format(Locale.ROOT, "%.3f", result.p99Millis()));
+        properties.setProperty(ALLOCATED_BYTES_PER_REQUEST, String.valueOf(result.allocatedBytesPerRequest()));
+        properties.setProperty(ALLOCATION_RATE, String.format(Locale.ROOT, "%.3f", result.allocationRateMbPerSec()));
+        properties.setProperty(THROUGHPUT, String.format(Locale.ROOT, "%.1f", result.throughput()));
+
+        Files.createDirectories(path.getParent());
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, "./gradlew loadTest -PloadTest.updateBaseline=true");
+        }
+    }
+
+    /**
+     * @param current 같은 도착률({@link #getRate()})로 측정한 결과
+     * @return 기준값을 넘어선 항목의 설명, 비어 있으면 통과
+     */
+    public List<String> regressions(LoadResult current, double p99Tolerance, double allocationTolerance) {
+        List<String> regressions = new ArrayList<>();
+
+        double p99Limit = Math.max(p99Millis * (1 + p99Tolerance), p99Millis + P99_SLACK_MILLIS);
+        if (current.p99Millis() > p99Limit) {
+            regressions.add(String.format("p99 %.3f ms > limit %.3f ms (baseline %.3f ms)",
+                    current.p99Millis(), p99Limit, p99Millis));
+        }
+
+        double allocationLimit = allocatedBytesPerRequest * (1 + allocationTolerance);
+        if (current.allocatedBytesPerRequest() > allocationLimit) {
+            regressions.add(String.format("allocation %d bytes/request > limit %.0f bytes/request (baseline %d)",
+                    current.allocatedBytesPerRequest(), allocationLimit, allocatedBytesPerRequest));
+        }
+
+        return regressions;
+    }
+
+}
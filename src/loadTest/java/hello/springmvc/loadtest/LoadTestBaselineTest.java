@@ -0,0 +1,60 @@
+package hello.springmvc.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+
+class LoadTestBaselineTest {
+
+    private static final double P99_TOLERANCE = 0.25;
+    private static final double ALLOCATION_TOLERANCE = 0.10;
+    private static final int REQUESTS = 100;
+
+    @Test
+    void withinTolerance() {
+        LoadTestBaseline baseline = new LoadTestBaseline(200, 10.0, 10_000);
+
+        assertThat(baseline.regressions(result(12.4, 11_000), P99_TOLERANCE, ALLOCATION_TOLERANCE)).isEmpty();
+    }
+
+    @Test
+    void p99PastTolerance() {
+        LoadTestBaseline baseline = new LoadTestBaseline(200, 10.0, 10_000);
+
+        assertThat(baseline.regressions(result(12.6, 10_000), P99_TOLERANCE, ALLOCATION_TOLERANCE))
+                .singleElement().asString().startsWith("p99");
+    }
+
+    @Test
+    void p99WithinSlackWhenBaselineIsSmall() {
+        // 0.5ms * 1.25 = 0.625ms 보다 크지만 0.5ms + 1ms 여유 안쪽이다.
+        LoadTestBaseline baseline = new LoadTestBaseline(200, 0.5, 10_000);
+
+        assertThat(baseline.regressions(result(1.4, 10_000), P99_TOLERANCE, ALLOCATION_TOLERANCE))
+                .isEmpty();
+        assertThat(baseline.regressions(result(1.6, 10_000), P99_TOLERANCE, ALLOCATION_TOLERANCE))
+                .singleElement().asString().startsWith("p99");
+    }
+
+    @Test
+    void allocationPastTolerance() {
+        LoadTestBaseline baseline = new LoadTestBaseline(200, 10.0, 10_000);
+
+        assertThat(baseline.regressions(result(10.0, 11_001), P99_TOLERANCE, ALLOCATION_TOLERANCE))
+                .singleElement().asString().startsWith("allocation");
+    }
+
+    /**
+     * 모든 요청이 {@code latencyMillis} 만에 끝나고 요청마다 {@code bytesPerRequest} 를 할당한 결과
+     */
+    private static LoadResult result(double latencyMillis, long bytesPerRequest) {
+        Histogram latency = new Histogram(3);
+        latency.recordValueWithCount((long) (latencyMillis * 1_000_000), REQUESTS);
+        return new LoadResult(latency, REQUESTS, REQUESTS, 0, Map.of(), bytesPerRequest * REQUESTS,
+                Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+
+}
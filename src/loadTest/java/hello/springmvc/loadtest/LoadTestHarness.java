@@ -0,0 +1,147 @@
+package hello.springmvc.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code ./gradlew loadTest} 진입점
+ * <p>애플리케이션을 별도 JVM({@link ServerProcess})에서 random port 로 띄우고, {@link TrafficMix} 를 워밍업 후
+ * 고정 도착률로 재생한 다음 HDR 히스토그램을 {@code build/reports/loadtest} 에 남기고 저장된 {@link LoadTestBaseline} 과 비교한다.
+ * 할당량은 {@link AllocationMeter} 가 서버 JVM 에 붙어서 측정하므로 부하 생성기의 할당은 섞이지 않는다.
+ * 기대하지 않은 상태코드가 있거나, 기준값이 없거나 다른 도착률로 기록되었거나, p99 또는 요청당 할당량이 기준값을 넘으면
+ * 0 이 아닌 코드로 종료해서 빌드를 실패시킨다.
+ *
+ * <p>설정은 시스템 프로퍼티로 받는다. (build.gradle 의 {@code -PloadTest.*} 참고)
+ * <ul>
+ *     <li>{@code loadtest.profile} - {@code servlet}(기본값) 또는 {@code reactive}</li>
+ *     <li>{@code loadtest.rate} - 초당 요청 수 (기본값 200), 기준값과 다르면 기준값을 새로 저장해야 한다.</li>
+ *     <li>{@code loadtest.warmup}, {@code loadtest.duration} - 초 단위 (기본값 10, 30)</li>
+ *     <li>{@code loadtest.traffic} - 재생할 트래픽 파일, 없으면 classpath 의 {@link TrafficMix#DEFAULT_RESOURCE}</li>
+ *     <li>{@code loadtest.p99Tolerance}, {@code loadtest.allocationTolerance} - 허용 비율 (기본값 0.25, 0.10)</li>
+ *     <li>{@code loadtest.updateBaseline} - {@code true} 면 비교 대신 기준값을 새로 저장</li>
+ * </ul>
+ */
+@Slf4j
+public class LoadTestHarness {
+
+    private static final String HARNESS_THREAD_PREFIX = "loadtest-";
+
+    public static void main(String[] args) throws Exception {
+        String profile = System.getProperty("loadtest.profile", "servlet");
+        int rate = Integer.parseInt(System.getProperty("loadtest.rate", "200"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.duration", "30")));
+        double p99Tolerance = Double.parseDouble(System.getProperty("loadtest.p99Tolerance", "0.25"));
+        double allocationTolerance = Double.parseDouble(System.getProperty("loadtest.allocationTolerance", "0.10"));
+        boolean updateBaseline = Boolean.parseBoolean(System.getProperty("loadtest.updateBaseline", "false"));
+        Path baselineDir = Path.of(System.getProperty("loadtest.baselineDir", "src/loadTest/baseline"));
+        Path reportDir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+
+        if (rate <= 0 || rate > 1_000_000) {
+            throw new IllegalArgumentException("loadtest.rate must be between 1 and 1000000: " + rate);
+        }
+
+        TrafficMix trafficMix = TrafficMix.load(System.getProperty("loadtest.traffic"));
+
+        LoadResult result;
+        try (ServerProcess server = ServerProcess.start(profile, reportDir.resolve(profile + "-server.log"));
+             AllocationMeter allocationMeter = AllocationMeter.attach(server.pid())) {
+            log.info("replaying traffic against {} ({}) at {} req/s", server.getBaseUri(), profile, rate);
+
+            ExecutorService executor = Executors.newFixedThreadPool(4, harnessThreadFactory());
+            try {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(executor)
+                        .build();
+                OpenModelLoadGenerator generator =
+                        new OpenModelLoadGenerator(client, server.getBaseUri(), trafficMix, allocationMeter);
+
+                log.info("warmup {}", warmup);
+                generator.run(rate, warmup);
+
+                log.info("measuring {}", duration);
+                result = generator.run(rate, duration);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        report(profile, result, reportDir);
+
+        if (result.getErrors() > 0) {
+            result.getErrorsByRequest().forEach((request, count) -> log.error("unexpected response {} x{}", request, count));
+            fail(result.getErrors() + " of " + result.getRequests() + " requests failed");
+        }
+
+        Path baselineFile = baselineDir.resolve(profile + ".properties");
+        if (updateBaseline) {
+            LoadTestBaseline.store(baselineFile, rate, result);
+            log.info("baseline updated: {}", baselineFile);
+            return;
+        }
+
+        Optional<LoadTestBaseline> baseline = LoadTestBaseline.load(baselineFile);
+        if (baseline.isEmpty()) {
+            Path candidate = reportDir.resolve(profile + "-baseline.properties");
+            LoadTestBaseline.store(candidate, rate, result);
+            fail("no baseline at " + baselineFile + ", candidate written to " + candidate
+                    + " (store it with -PloadTest.updateBaseline=true)");
+        }
+        if (baseline.get().getRate() != rate) {
+            fail("baseline was recorded at " + baseline.get().getRate() + " req/s, not " + rate
+                    + " req/s (store a new one with -PloadTest.updateBaseline=true)");
+        }
+
+        List<String> regressions = baseline.get().regressions(result, p99Tolerance, allocationTolerance);
+        if (!regressions.isEmpty()) {
+            regressions.forEach(regression -> log.error("regression: {}", regression));
+            fail("performance regressed past " + baselineFile);
+        }
+        log.info("no regression against {}", baselineFile);
+    }
+
+    private static ThreadFactory harnessThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, HARNESS_THREAD_PREFIX + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void report(String profile, LoadResult result, Path reportDir) throws IOException {
+        log.info("requests = {}, successes = {}, errors = {}, throughput = {} req/s", result.getRequests(),
+                result.getSuccesses(), result.getErrors(), String.format("%.1f", result.throughput()));
+        log.info("p99 = {} ms, max = {} ms", String.format("%.3f", result.p99Millis()),
+                String.format("%.3f", result.maxMillis()));
+        log.info("allocation = {} bytes/request, {} MB/s", result.allocatedBytesPerRequest(),
+                String.format("%.3f", result.allocationRateMbPerSec()));
+
+        Files.createDirectories(reportDir);
+        Path histogramFile = reportDir.resolve(profile + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(histogramFile), false, StandardCharsets.UTF_8)) {
+            result.getLatency().outputPercentileDistribution(out, 1_000_000.0);
+        }
+        log.info("latency histogram (ms): {}", histogramFile);
+    }
+
+    private static void fail(String message) {
+        log.error(message);
+        System.exit(1);
+    }
+
+}
@@ -0,0 +1,169 @@
+package hello.springmvc.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 고정된 도착률(open model)로 {@link TrafficMix} 를 재생한다.
+ * <p>이전 응답을 기다리지 않고 {@code 1 / rate} 초마다 요청을 보낸다. 지연시간은 예정된 전송 시각부터 측정하므로
+ * 서버가 밀려서 전송이 늦어진 시간도 포함된다. (coordinated omission 방지)
+ * <p>응답 완료 시각과 상태코드는 {@link HttpClient} 스레드에서 바디를 다 읽은 순간 {@link BodySubscriber#onComplete()} 로
+ * 기록한다. {@link HttpClient#sendAsync} 의 {@link java.util.concurrent.CompletableFuture} 는 common pool 을 거쳐서
+ * 완료되므로, 그 대기 시간이 지연시간에 섞이지 않게 하기 위해서이다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OpenModelLoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final TrafficMix trafficMix;
+    private final AllocationMeter allocationMeter;
+
+    public LoadResult run(int rate, Duration duration) {
+        Histogram latency = new ConcurrentHistogram(3);
+        AtomicLong outstanding = new AtomicLong();
+        LongAdder successes = new LongAdder();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = duration.toNanos() / interval;
+
+        allocationMeter.start();
+        long start = System.nanoTime();
+        AtomicLong lastCompletion = new AtomicLong(start);
+
+        for (long sequence = 0; sequence < total; sequence++) {
+            long intendedStart = start + sequence * interval;
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+
+            TrafficRequest request = trafficMix.get(sequence);
+            AtomicBoolean recorded = new AtomicBoolean();
+            Completion completion = (status, failure) -> {
+                if (!recorded.compareAndSet(false, true)) {
+                    return;
+                }
+                long now = System.nanoTime();
+                latency.recordValue(now - intendedStart);
+                lastCompletion.accumulateAndGet(now, Math::max);
+                if (failure != null) {
+                    errors.computeIfAbsent(request.describe() + " -> " + failure.getClass().getSimpleName(),
+                            key -> new LongAdder()).increment();
+                } else if (status != request.getStatus()) {
+                    errors.computeIfAbsent(request.describe() + " -> " + status,
+                            key -> new LongAdder()).increment();
+                } else {
+                    successes.increment();
+                }
+                outstanding.decrementAndGet();
+            };
+
+            outstanding.incrementAndGet();
+            client.sendAsync(request.toHttpRequest(baseUri, REQUEST_TIMEOUT), recording(completion))
+                    .whenComplete((response, ex) -> {
+                        // 연결 실패, 타임아웃 등 바디를 받지 못한 경우만 여기서 기록된다.
+                        if (ex != null) {
+                            completion.complete(0, ex);
+                        }
+                    });
+        }
+
+        // 할당량은 전송 구간이 끝난 시점에 잰다. 서버가 느려져서 응답 대기가 길어져도 값이 희석되지 않는다.
+        long windowEnd = start + total * interval;
+        long remaining = windowEnd - System.nanoTime();
+        if (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+        Duration sendWindow = Duration.ofNanos(System.nanoTime() - start);
+        long allocatedBytes = allocationMeter.allocatedBytes();
+
+        long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        Duration elapsed = Duration.ofNanos(Math.max(lastCompletion.get(), windowEnd) - start);
+
+        long pending = outstanding.get();
+        if (pending > 0) {
+            log.warn("{} requests did not complete within {}", pending, DRAIN_TIMEOUT);
+            errors.computeIfAbsent("incomplete", key -> new LongAdder()).add(pending);
+        }
+
+        Map<String, Long> errorsByRequest = new TreeMap<>();
+        errors.forEach((key, count) -> errorsByRequest.put(key, count.sum()));
+        long errorCount = errorsByRequest.values().stream().mapToLong(Long::longValue).sum();
+
+        return new LoadResult(latency, total, successes.sum(), errorCount, errorsByRequest,
+                allocatedBytes, sendWindow, elapsed);
+    }
+
+    /**
+     * 바디를 버리면서, 바디를 끝까지 읽은 시점에 {@link Completion} 을 호출하는 {@link BodyHandler}
+     */
+    private static BodyHandler<Void> recording(Completion completion) {
+        return responseInfo -> {
+            BodySubscriber<Void> discarding = BodySubscribers.discarding();
+            return new BodySubscriber<>() {
+                @Override
+                public CompletionStage<Void> getBody() {
+                    return discarding.getBody();
+                }
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    discarding.onSubscribe(subscription);
+                }
+
+                @Override
+                public void onNext(List<ByteBuffer> item) {
+                    discarding.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    completion.complete(0, throwable);
+                    discarding.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    completion.complete(responseInfo.statusCode(), null);
+                    discarding.onComplete();
+                }
+            };
+        };
+    }
+
+    @FunctionalInterface
+    private interface Completion {
+
+        void complete(int status, Throwable failure);
+    }
+
+}
@@ -0,0 +1,106 @@
+package hello.springmvc.loadtest;
+
+import hello.springmvc.SpringmvcApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 측정 대상 애플리케이션을 별도 JVM 으로 띄운다.
+ * <p>부하 생성기와 heap, GC 를 나누어 쓰지 않도록 {@link SpringmvcApplication} 을 자식 프로세스로 실행하고,
+ * {@link org.springframework.boot.web.context.WebServerPortFileWriter} 가 남기는 port 파일로 random port 를 알아낸다.
+ */
+@Slf4j
+public class ServerProcess implements AutoCloseable {
+
+    private static final String REACTIVE = "reactive";
+    private static final List<String> SERVER_JVM_ARGS = List.of("-Xms512m", "-Xmx512m");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Process process;
+
+    @Getter
+    private final URI baseUri;
+
+    private ServerProcess(Process process, int port) {
+        this.process = process;
+        this.baseUri = URI.create("http://localhost:" + port);
+    }
+
+    public static ServerProcess start(String profile, Path logFile) throws IOException, InterruptedException {
+        Path portFile = Files.createTempFile("springmvc-loadtest", ".port");
+        Files.delete(portFile);
+        Files.createDirectories(logFile.getParent());
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(SERVER_JVM_ARGS);
+        command.add("-DPORTFILE=" + portFile);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(SpringmvcApplication.class.getName());
+        command.add("--server.port=0");
+        if (REACTIVE.equals(profile)) {
+            command.add("--spring.profiles.active=" + REACTIVE);
+        }
+        command.add("--context.listener.classes=org.springframework.boot.web.context.WebServerPortFileWriter");
+        // 요청마다 남는 debug 로그가 측정을 왜곡하지 않도록 낮춘다.
+        command.add("--logging.level.hello.springmvc=warn");
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+
+        try {
+            ServerProcess server = new ServerProcess(process, awaitPort(process, portFile, logFile));
+            log.info("server pid {} listening on {} (log: {})", process.pid(), server.getBaseUri(), logFile);
+            return server;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            process.destroyForcibly();
+            throw e;
+        } finally {
+            Files.deleteIfExists(portFile);
+        }
+    }
+
+    public long pid() {
+        return process.pid();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int awaitPort(Process process, Path portFile, Path logFile)
+            throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("server exited with " + process.exitValue() + ", see " + logFile);
+            }
+            if (Files.exists(portFile)) {
+                String port = Files.readString(portFile, StandardCharsets.UTF_8).trim();
+                if (!port.isEmpty()) {
+                    return Integer.parseInt(port);
+                }
+            }
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        throw new IllegalStateException("server did not start within " + STARTUP_TIMEOUT + ", see " + logFile);
+    }
+
+}
@@ -0,0 +1,65 @@
+package hello.springmvc.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 재생할 요청 목록
+ * <p>기록된 트래픽이든 합성한 트래픽이든 같은 JSON 형식({@link TrafficRequest} 의 배열)으로 읽는다.
+ * {@link TrafficRequest#getWeight()} 만큼 복제한 뒤 고정된 seed 로 섞어서, 매 실행마다 같은 순서로 재생된다.
+ */
+public class TrafficMix {
+
+    public static final String DEFAULT_RESOURCE = "/traffic-mix.json";
+
+    private static final long SEED = 42L;
+
+    private final List<TrafficRequest> schedule;
+
+    TrafficMix(List<TrafficRequest> requests) {
+        List<TrafficRequest> expanded = new ArrayList<>();
+        for (TrafficRequest request : requests) {
+            for (int i = 0; i < request.getWeight(); i++) {
+                expanded.add(request);
+            }
+        }
+        if (expanded.isEmpty()) {
+            throw new IllegalArgumentException("traffic mix is empty");
+        }
+
+        Collections.shuffle(expanded, new Random(SEED));
+        this.schedule = Collections.unmodifiableList(expanded);
+    }
+
+    /**
+     * @param location 트래픽 파일 경로, {@code null} 이면 classpath 의 {@link #DEFAULT_RESOURCE}
+     */
+    public static TrafficMix load(String location) throws IOException {
+        try (InputStream in = location == null
+                ? TrafficMix.class.getResourceAsStream(DEFAULT_RESOURCE)
+                : Files.newInputStream(Path.of(location))) {
+            if (in == null) {
+                throw new IOException("traffic mix not found: " + DEFAULT_RESOURCE);
+            }
+            return new TrafficMix(new ObjectMapper().readValue(in, new TypeReference<List<TrafficRequest>>() {
+            }));
+        }
+    }
+
+    public TrafficRequest get(long sequence) {
+        return schedule.get((int) (sequence % schedule.size()));
+    }
+
+    public int size() {
+        return schedule.size();
+    }
+
+}
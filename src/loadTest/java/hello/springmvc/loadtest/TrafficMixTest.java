@@ -0,0 +1,73 @@
+package hello.springmvc.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TrafficMixTest {
+
+    @Test
+    void expandsByWeight() {
+        TrafficRequest a = request("/a", 2);
+        TrafficRequest b = request("/b", 3);
+        TrafficMix mix = new TrafficMix(List.of(a, b));
+
+        List<TrafficRequest> cycle = cycle(mix);
+        assertThat(mix.size()).isEqualTo(5);
+        assertThat(cycle).filteredOn(request -> request == a).hasSize(2);
+        assertThat(cycle).filteredOn(request -> request == b).hasSize(3);
+    }
+
+    @Test
+    void wrapsAround() {
+        TrafficMix mix = new TrafficMix(List.of(request("/a", 1), request("/b", 1)));
+
+        assertThat(mix.get(mix.size())).isSameAs(mix.get(0));
+        assertThat(mix.get(mix.size() + 1L)).isSameAs(mix.get(1));
+    }
+
+    @Test
+    void sameOrderEveryRun() {
+        List<TrafficRequest> requests = List.of(request("/a", 3), request("/b", 3), request("/c", 3));
+
+        assertThat(cycle(new TrafficMix(requests))).isEqualTo(cycle(new TrafficMix(requests)));
+    }
+
+    @Test
+    void rejectsEmptyMix() {
+        assertThatThrownBy(() -> new TrafficMix(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TrafficMix(List.of(request("/a", 0))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void loadsDefaultMix() throws Exception {
+        TrafficMix mix = TrafficMix.load(null);
+
+        assertThat(cycle(mix)).allSatisfy(request -> {
+            assertThat(request.getMethod()).isNotBlank();
+            assertThat(request.getPath()).startsWith("/");
+        });
+    }
+
+    private TrafficRequest request(String path, int weight) {
+        TrafficRequest request = new TrafficRequest();
+        request.setMethod("GET");
+        request.setPath(path);
+        request.setWeight(weight);
+        return request;
+    }
+
+    private List<TrafficRequest> cycle(TrafficMix mix) {
+        List<TrafficRequest> cycle = new ArrayList<>();
+        for (int i = 0; i < mix.size(); i++) {
+            cycle.add(mix.get(i));
+        }
+        return cycle;
+    }
+
+}
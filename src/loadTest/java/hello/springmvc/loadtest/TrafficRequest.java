@@ -0,0 +1,45 @@
+package hello.springmvc.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트래픽 믹스의 요청 하나
+ * <p>{@code weight} 는 믹스 안에서의 상대 빈도, {@code status} 는 기대하는 응답 상태코드이다.
+ */
+@Data
+@NoArgsConstructor
+public class TrafficRequest {
+
+    private String method;
+    private String path;
+    private Map<String, String> headers = new LinkedHashMap<>();
+    private String body;
+    private int weight = 1;
+    private int status = 200;
+
+    public HttpRequest toHttpRequest(URI baseUri, Duration timeout) {
+        BodyPublisher publisher = body == null
+                ? BodyPublishers.noBody()
+                : BodyPublishers.ofString(body);
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .method(method, publisher)
+                .timeout(timeout);
+        headers.forEach(builder::header);
+
+        return builder.build();
+    }
+
+    public String describe() {
+        return method + " " + path;
+    }
+
+}
@@ -1,11 +1,14 @@
 package hello.springmvc.basic.response;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.servlet.ModelAndView;
 
 @Controller
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class ResponseViewController {
 
     @RequestMapping("/response-view-v1")
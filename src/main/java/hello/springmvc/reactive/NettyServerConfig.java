@@ -0,0 +1,23 @@
+package hello.springmvc.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * WebFlux 를 Netty 위에서 실행한다.
+ * <p>spring-boot-starter-web 때문에 Tomcat 도 classpath 에 있고, 자동 설정은 reactive 에서도 Tomcat 을 먼저 고른다.
+ * {@link org.springframework.boot.web.reactive.server.ReactiveWebServerFactory} 를 직접 등록하면 자동 설정은 물러난다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class NettyServerConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+}
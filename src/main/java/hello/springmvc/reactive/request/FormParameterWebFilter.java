@@ -0,0 +1,60 @@
+package hello.springmvc.reactive.request;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+/**
+ * HTML Form 데이터를 쿼리 파라미터에 합쳐주는 {@link WebFilter}
+ * <p>WebFlux 의 {@link org.springframework.web.bind.annotation.RequestParam} 은 쿼리 파라미터만 바인딩한다.
+ * {@code /request-param*} 경로에서는 Spring MVC 의 {@link javax.servlet.ServletRequest#getParameter(String)} 처럼
+ * 쿼리 파라미터 다음에 Form 데이터를 이어 붙여서, {@link ReactiveRequestParamController} 가
+ * {@link hello.springmvc.basic.request.RequestParamController} 와 같은 시그니처로 Form 데이터도 받을 수 있게 한다.
+ * <p>{@link org.springframework.web.bind.annotation.ModelAttribute} 는 이미 Form 데이터를 바인딩하므로, 값이 중복되지
+ * 않도록 다른 경로에는 적용하지 않는다.
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class FormParameterWebFilter implements WebFilter {
+
+    private static final PathPattern REQUEST_PARAM_PATH = PathPatternParser.defaultInstance.parse("/request-param*");
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!REQUEST_PARAM_PATH.matches(exchange.getRequest().getPath().pathWithinApplication())) {
+            return chain.filter(exchange);
+        }
+
+        return exchange.getFormData()
+                .flatMap(formData -> {
+                    if (formData.isEmpty()) {
+                        return chain.filter(exchange);
+                    }
+
+                    MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+                    params.addAll(exchange.getRequest().getQueryParams());
+                    params.addAll(formData);
+                    MultiValueMap<String, String> merged = CollectionUtils.unmodifiableMultiValueMap(params);
+
+                    ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+                        @Override
+                        public MultiValueMap<String, String> getQueryParams() {
+                            return merged;
+                        }
+                    };
+                    return chain.filter(exchange.mutate().request(request).build());
+                });
+    }
+
+}
@@ -0,0 +1,90 @@
+package hello.springmvc.reactive.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hello.springmvc.basic.HelloData;
+import hello.springmvc.basic.request.RequestBodyJsonController;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RequestBodyJsonController} 의 WebFlux 버전
+ */
+@Slf4j
+@Controller
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveRequestBodyJsonController {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @PostMapping("/request-body-json-v1")
+    public Mono<Void> requestBodyJsonV1(ServerHttpRequest request, ServerHttpResponse response) {
+        return DataBufferUtils.join(request.getBody())
+                .map(buffer -> {
+                    String messageBody = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return messageBody;
+                })
+                .defaultIfEmpty("")
+                .doOnNext(messageBody -> log.info("messageBody = {}", messageBody))
+                .flatMap(this::readHelloData)
+                .doOnNext(helloData -> log.info("helloData = {}", helloData))
+                .then(response.writeWith(Mono.fromSupplier(
+                        () -> response.bufferFactory().wrap("ok".getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    @ResponseBody
+    @PostMapping("/request-body-json-v2")
+    public Mono<String> requestBodyJsonV2(@RequestBody Mono<String> messageBody) {
+        return messageBody
+                .doOnNext(body -> log.info("messageBody = {}", body))
+                .flatMap(this::readHelloData)
+                .doOnNext(helloData -> log.info("helloData = {}", helloData))
+                .thenReturn("ok");
+    }
+
+    /**
+     * {@link RequestBody} 객체 변환
+     * <p>{@link org.springframework.http.codec.json.Jackson2JsonDecoder} 가 바디를 non-blocking 으로 디코딩해서
+     * {@link Mono} 로 전달한다.
+     *
+     * @param helloData 내용이 변환되어 담길 객체
+     */
+    @ResponseBody
+    @PostMapping("/request-body-json-v3")
+    public Mono<String> requestBodyJsonV3(@RequestBody Mono<HelloData> helloData) {
+        return helloData
+                .doOnNext(data -> log.info("helloData = {}", data))
+                .thenReturn("ok");
+    }
+
+    @ResponseBody
+    @PostMapping("/request-body-json-v4")
+    public Mono<String> requestBodyJsonV4(HttpEntity<Mono<HelloData>> httpEntity) {
+        return httpEntity.getBody()
+                .doOnNext(helloData -> log.info("helloData = {}", helloData))
+                .thenReturn("ok");
+    }
+
+    @ResponseBody
+    @PostMapping("/request-body-json-v5")
+    public Mono<HelloData> requestBodyJsonV5(@RequestBody Mono<HelloData> helloData) {
+        return helloData
+                .doOnNext(data -> log.info("helloData = {}", data));
+    }
+
+    private Mono<HelloData> readHelloData(String messageBody) {
+        return Mono.fromCallable(() -> objectMapper.readValue(messageBody, HelloData.class));
+    }
+
+}
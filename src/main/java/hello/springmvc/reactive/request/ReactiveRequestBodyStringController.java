@@ -0,0 +1,90 @@
+package hello.springmvc.reactive.request;
+
+import hello.springmvc.basic.request.RequestBodyStringController;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.RequestEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RequestBodyStringController} 의 WebFlux 버전
+ * <p>같은 경로를 제공하지만 메시지 바디를 {@link Mono} 로 받아서 event loop 를 막지 않고 처리한다.
+ */
+@Slf4j
+@Controller
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveRequestBodyStringController {
+
+    /**
+     * {@link ServerHttpRequest}, {@link ServerHttpResponse} 를 활용한 방법
+     * <p>{@link javax.servlet.ServletInputStream} 대신 {@link ServerHttpRequest#getBody()} 의
+     * {@link org.springframework.core.io.buffer.DataBuffer} 들을 합쳐서 읽는다.
+     *
+     * @param request  요청
+     * @param response 응답
+     */
+    @PostMapping("/request-body-string-v1")
+    public Mono<Void> requestBodyString(ServerHttpRequest request, ServerHttpResponse response) {
+        return DataBufferUtils.join(request.getBody())
+                .map(buffer -> {
+                    String messageBody = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return messageBody;
+                })
+                .defaultIfEmpty("")
+                .doOnNext(messageBody -> log.info("messageBody = {}", messageBody))
+                .then(response.writeWith(Mono.fromSupplier(
+                        () -> response.bufferFactory().wrap("ok".getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    /**
+     * {@link Mono Mono&lt;String&gt;} 으로 메시지 바디를 받는다.
+     * <p>WebFlux 는 {@link java.io.InputStream}, {@link java.io.Writer} 파라미터를 지원하지 않으므로
+     * 바디 전체가 도착했을 때 디코딩된 문자열을 받아서 처리한다.
+     * <p>{@link java.io.InputStream} 처럼 바디가 비어 있어도 빈 문자열로 처리한다.
+     *
+     * @param messageBody 디코딩된 메시지 바디
+     */
+    @ResponseBody
+    @PostMapping("/request-body-string-v2")
+    public Mono<String> requestBodyStringV2(@RequestBody(required = false) Mono<String> messageBody) {
+        return messageBody
+                .defaultIfEmpty("")
+                .doOnNext(body -> log.info("messageBody = {}", body))
+                .thenReturn("ok");
+    }
+
+    /**
+     * {@link RequestEntity RequestEntity&lt;Mono&lt;String&gt;&gt;} 의 사용
+     * <p>헤더 정보는 바로 조회할 수 있고, 바디는 {@link Mono} 로 나중에 도착한다.
+     *
+     * @param httpEntity message body 정보를 직접 조회
+     * @return {@link HttpStatus#CREATED} 와 함께 메세지를 전달한다.
+     */
+    @PostMapping("/request-body-string-v3")
+    public Mono<ResponseEntity<String>> requestBodyStringV3(RequestEntity<Mono<String>> httpEntity) {
+        return httpEntity.getBody()
+                .doOnNext(body -> log.info("body = {}", body))
+                .thenReturn(new ResponseEntity<>("ok", HttpStatus.CREATED));
+    }
+
+    @ResponseBody
+    @PostMapping("/request-body-string-v4")
+    public Mono<String> requestBodyStringV4(@RequestBody Mono<String> messageBody) {
+        return messageBody
+                .doOnNext(body -> log.info("messageBody = {}", body))
+                .thenReturn("ok");
+    }
+
+}
@@ -0,0 +1,41 @@
+package hello.springmvc.reactive.request;
+
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveRequestHeaderController {
+
+    @RequestMapping(value = "/headers")
+    public String headers(ServerHttpRequest request,
+        ServerHttpResponse response,
+        HttpMethod httpMethod,
+        Locale locale,
+        @RequestHeader MultiValueMap<String, String> headerMap,
+        @RequestHeader("host") String host,
+        @CookieValue(value = "myCookie", required = false) String cookie) {
+
+        log.info("request = {}", request);
+        log.info("response = {}", response);
+        log.info("httpMethod = {}", httpMethod);
+        log.info("locale = {}", locale);
+        log.info("headerMap = {}", headerMap);
+        log.info("host = {}", host);
+        log.info("cookie = {}", cookie);
+
+        return "ok";
+
+    }
+}
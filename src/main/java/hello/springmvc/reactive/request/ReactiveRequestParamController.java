@@ -0,0 +1,125 @@
+package hello.springmvc.reactive.request;
+
+import hello.springmvc.basic.HelloData;
+import hello.springmvc.basic.request.RequestParamController;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link RequestParamController} 의 WebFlux 버전
+ * <p><b>NOTE: </b>WebFlux 의 {@link RequestParam} 은 쿼리 파라미터만 바인딩한다. HTML Form 데이터는
+ * {@link FormParameterWebFilter} 가 쿼리 파라미터에 합쳐주므로 Spring MVC 와 같은 시그니처를 그대로 사용한다.
+ */
+@Slf4j
+@Controller
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveRequestParamController {
+
+    /**
+     * {@link javax.servlet.http.HttpServletRequest#getParameter(String)} 대신 {@link ServerHttpRequest#getQueryParams()}
+     * 를 사용한다. {@code basic/hello-form.html} 에서 POST 로 전송한 Form 데이터도 {@link FormParameterWebFilter} 가 합쳐준다.
+     */
+    @RequestMapping("/request-param-v1")
+    public Mono<Void> requestParamV1(ServerHttpRequest request, ServerHttpResponse response) {
+        String username = request.getQueryParams().getFirst("username");
+        int age = Integer.parseInt(request.getQueryParams().getFirst("age"));
+
+        log.info("username = {}, age = {}", username, age);
+
+        return response.writeWith(Mono.fromSupplier(
+                () -> response.bufferFactory().wrap("ok".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @ResponseBody
+    @RequestMapping("/request-param-v2")
+    public String requestParamV2(
+            @RequestParam("username") String memberName,
+            @RequestParam("age") int memberAge) {
+
+        log.info("memberName = {}, age = {}", memberName, memberAge);
+        return "ok";
+    }
+
+    @ResponseBody
+    @RequestMapping("/request-param-v3")
+    public String requestParamV3(
+            @RequestParam String username,
+            @RequestParam int age) {
+
+        log.info("username = {}, age = {}", username, age);
+        return "ok";
+    }
+
+    @ResponseBody
+    @RequestMapping("/request-param-v4")
+    public String requestParamV4(
+            String username,
+            int age) {
+
+        log.info("username = {}, age = {}", username, age);
+        return "ok";
+    }
+
+    @ResponseBody
+    @RequestMapping("/request-param-v5")
+    public String requestParamRequired(
+            @RequestParam(required = true) String username,
+            @RequestParam(required = false) Integer age) {
+
+        log.info("username = {}, age = {}", username, age);
+        return "ok";
+    }
+
+    @ResponseBody
+    @RequestMapping("/request-param-default")
+    public String requestParamDefault(
+            @RequestParam(defaultValue = "guest") String username,
+            @RequestParam(defaultValue = "-1") int age) {
+
+        log.info("username = {}, age = {}", username, age);
+        return "ok";
+    }
+
+    @ResponseBody
+    @RequestMapping("/request-param-map")
+    public String requestParamMap(
+            @RequestParam Map<String, Object> paramMap) {
+
+        log.info("username = {}, age = {}", paramMap.get("username"), paramMap.get("age"));
+        return "ok";
+    }
+
+    /**
+     * {@link ModelAttribute} 사용
+     * <p>WebFlux 에서는 {@link Mono Mono&lt;HelloData&gt;} 로 받을 수 있고, 쿼리 파라미터와 Form 데이터를 모두 바인딩한다.
+     *
+     * @param helloData Data Transfer Object
+     */
+    @ResponseBody
+    @RequestMapping("/model-attribute-v1")
+    public Mono<String> modelAttributeV1(@ModelAttribute Mono<HelloData> helloData) {
+        return helloData
+                .doOnNext(data -> log.info("helloData = {}", data))
+                .thenReturn("ok");
+    }
+
+    @ResponseBody
+    @RequestMapping("/model-attribute-v2")
+    public Mono<String> modelAttributeV2(Mono<HelloData> helloData) {
+        return helloData
+                .doOnNext(data -> log.info("helloData = {}", data))
+                .thenReturn("ok");
+    }
+
+}
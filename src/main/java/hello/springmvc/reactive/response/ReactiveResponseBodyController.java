@@ -0,0 +1,57 @@
+package hello.springmvc.reactive.response;
+
+import hello.springmvc.basic.HelloData;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveResponseBodyController {
+
+    @GetMapping("/response-body-string-v1")
+    public Mono<Void> responseBodyV1(ServerHttpResponse response) {
+        return response.writeWith(Mono.fromSupplier(
+                () -> response.bufferFactory().wrap("ok".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @GetMapping("/response-body-string-v2")
+    public Mono<ResponseEntity<String>> responseBodyV2() {
+        return Mono.just(new ResponseEntity<>("ok", HttpStatus.OK));
+    }
+
+    @GetMapping("/response-body-string-v3")
+    public Mono<String> responseBodyV3() {
+        return Mono.just("ok");
+    }
+
+    @GetMapping("/response-body-json-v1")
+    public Mono<ResponseEntity<HelloData>> responseBodyJsonV1() {
+        HelloData helloData = HelloData.builder()
+                .username("userA")
+                .age(20)
+                .build();
+
+        return Mono.just(new ResponseEntity<>(helloData, HttpStatus.OK));
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("/response-body-json-v2")
+    public Mono<HelloData> responseBodyJsonV2() {
+
+        return Mono.just(HelloData.builder()
+                .username("userA")
+                .age(20)
+                .build());
+    }
+
+}
@@ -0,0 +1,41 @@
+package hello.springmvc.reactive.response;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.reactive.result.view.Rendering;
+
+@Controller
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReactiveResponseViewController {
+
+    /**
+     * {@link org.springframework.web.servlet.ModelAndView} 대신 {@link Rendering} 을 사용한다.
+     */
+    @RequestMapping("/response-view-v1")
+    public Rendering responseViewV1() {
+        return Rendering.view("response/hello")
+                .modelAttribute("data", "hello!")
+                .build();
+    }
+
+    @RequestMapping("/response-view-v2")
+    public String responseViewV2(Model model) {
+        model.addAttribute("data", "hello thymeleaf!");
+        return "response/hello";
+    }
+
+    /**
+     * {@code void}를 반환하는 경우
+     * <p>WebFlux 도 요청 URL 을 논리 뷰 이름으로 사용한다.
+     *
+     * @param model 전달할 데이터
+     */
+    @RequestMapping("/response/hello")
+    public void responseViewV3(Model model) {
+        model.addAttribute("data", "hello thymeleaf!");
+    }
+
+}
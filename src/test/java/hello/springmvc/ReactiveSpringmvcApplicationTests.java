@@ -0,0 +1,75 @@
+package hello.springmvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.BodyInserters;
+
+/**
+ * {@code reactive} 프로필만으로 WebFlux(Netty) 로 전환되고, 서블릿 버전과 같은 경로가 같은 응답을 주는지 확인한다.
+ */
+@ActiveProfiles("reactive")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class ReactiveSpringmvcApplicationTests {
+
+    @Autowired
+    ReactiveWebServerApplicationContext context;
+
+    @Autowired
+    WebTestClient webTestClient;
+
+    @Test
+    void contextLoads() {
+        assertThat(context.getWebServer()).isInstanceOf(NettyWebServer.class);
+    }
+
+    @Test
+    void requestParamFromForm() {
+        webTestClient.post().uri("/request-param-v1")
+                .body(BodyInserters.fromFormData("username", "hello").with("age", "20"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("ok");
+
+        webTestClient.post().uri("/request-param-v2")
+                .body(BodyInserters.fromFormData("username", "hello").with("age", "20"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("ok");
+    }
+
+    @Test
+    void requestBodyStringCreated() {
+        webTestClient.post().uri("/request-body-string-v3")
+                .contentType(MediaType.TEXT_PLAIN)
+                .bodyValue("hello")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(String.class).isEqualTo("ok");
+    }
+
+    @Test
+    void requestBodyStringEmpty() {
+        webTestClient.post().uri("/request-body-string-v2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("ok");
+    }
+
+    @Test
+    void defaultViewName() {
+        webTestClient.get().uri("/response/hello")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class).value(body -> assertThat(body).contains("hello thymeleaf!"));
+    }
+
+}